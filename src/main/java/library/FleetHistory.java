@@ -0,0 +1,278 @@
+package library;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Optional temporal store for a repository. Every status or assignment change is appended to a
+ * per-entity timeline kept as parallel columns: varint-encoded millisecond deltas, status ordinals
+ * and, for rockets, the id of the assigned mission. Every {@value #CHECKPOINT_INTERVAL}th entry also
+ * stores its absolute time and byte position, so a point-in-time lookup binary-searches the checkpoints
+ * and decodes a single block.
+ */
+public class FleetHistory {
+    private static final int NO_MISSION = -1;
+    private static final int CHECKPOINT_INTERVAL = 64;
+
+    private final Clock clock;
+    private long lastMillis = Long.MIN_VALUE;
+    private final Map<String, Timeline> rocketTimelines = new LinkedHashMap<>();
+    private final Map<String, Timeline> missionTimelines = new LinkedHashMap<>();
+    private final Map<String, Integer> missionIds = new HashMap<>();
+    private final List<String> missionNames = new ArrayList<>();
+
+    public FleetHistory() {
+        this(Clock.systemUTC());
+    }
+
+    public FleetHistory(Clock clock) {
+        if (clock == null) throw new IllegalArgumentException("Clock cannot be null");
+        this.clock = clock;
+    }
+
+    /** Never goes backwards, so timelines of different entities agree on the order of changes. */
+    synchronized long now() {
+        lastMillis = Math.max(lastMillis, clock.millis());
+        return lastMillis;
+    }
+
+    synchronized void record(Rocket rocket, long at) {
+        int missionId = rocket.getMissionName() == null ? NO_MISSION : missionId(rocket.getMissionName());
+        rocketTimelines.computeIfAbsent(rocket.getName(), n -> new Timeline())
+                .append(at, rocket.getStatus().ordinal(), missionId);
+    }
+
+    synchronized void record(Mission mission, long at) {
+        missionId(mission.getName());
+        missionTimelines.computeIfAbsent(mission.getName(), n -> new Timeline())
+                .append(at, mission.getStatus().ordinal(), NO_MISSION);
+    }
+
+    public synchronized List<StatusChange<RocketStatus>> getRocketTimeline(String rocketName) {
+        return toChanges(timelineOrThrow(rocketTimelines, "Rocket", rocketName), RocketStatus.values());
+    }
+
+    public synchronized List<StatusChange<MissionStatus>> getMissionTimeline(String missionName) {
+        return toChanges(timelineOrThrow(missionTimelines, "Mission", missionName), MissionStatus.values());
+    }
+
+    public synchronized Duration getTimeInStatus(String missionName, MissionStatus status, Instant until) {
+        if (status == null || until == null) throw new IllegalArgumentException("Status and instant cannot be null");
+        Duration time = timeInStatus(getMissionTimeline(missionName), status, Instant.MIN, until);
+        return time == null ? Duration.ZERO : time;
+    }
+
+    /**
+     * Returns every mission that was in {@code status} at some point in {@code [from, until)}, mapped to how
+     * long it stayed there within that window, in the order the missions were added.
+     */
+    public synchronized Map<String, Duration> getMissionsInStatus(MissionStatus status, Instant from, Instant until) {
+        if (status == null || from == null || until == null) {
+            throw new IllegalArgumentException("Status and instants cannot be null");
+        }
+        if (from.isAfter(until)) throw new IllegalArgumentException("Window start must not be after its end");
+
+        Map<String, Duration> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Timeline> entry : missionTimelines.entrySet()) {
+            Duration time = timeInStatus(toChanges(entry.getValue(), MissionStatus.values()), status, from, until);
+            if (time != null) {
+                result.put(entry.getKey(), time);
+            }
+        }
+        return result;
+    }
+
+    public synchronized String getSummaryAt(Instant at) {
+        if (at == null) throw new IllegalArgumentException("Instant cannot be null");
+        long millis = at.toEpochMilli();
+
+        Map<String, Mission> missions = new HashMap<>();
+        Map<String, MissionStatus> missionStatuses = new HashMap<>();
+        for (Map.Entry<String, Timeline> entry : missionTimelines.entrySet()) {
+            int state = entry.getValue().stateAt(millis);
+            if (state < 0) continue;
+            missions.put(entry.getKey(), new Mission(entry.getKey()));
+            missionStatuses.put(entry.getKey(), MissionStatus.values()[state]);
+        }
+
+        InMemorySpaceXRepository view = new InMemorySpaceXRepository();
+        for (Map.Entry<String, Timeline> entry : rocketTimelines.entrySet()) {
+            Timeline timeline = entry.getValue();
+            int index = timeline.indexAt(millis);
+            if (index < 0) continue;
+
+            Rocket rocket = new Rocket(entry.getKey());
+            int missionId = timeline.missionRefs[index];
+            if (missionId != NO_MISSION) {
+                Mission mission = missions.get(missionNames.get(missionId));
+                rocket.assignToMission(mission.getName());
+                mission.assignRocket(rocket);
+            }
+            rocket.setStatus(RocketStatus.values()[timeline.states[index]]);
+            view.addRocket(rocket);
+        }
+
+        for (Mission mission : missions.values()) {
+            mission.setStatus(missionStatuses.get(mission.getName()));
+            view.addMission(mission);
+        }
+        return view.getSummary();
+    }
+
+    /** Time spent in {@code status} within {@code [from, until)}, or null if the status never overlaps it. */
+    private Duration timeInStatus(List<StatusChange<MissionStatus>> changes, MissionStatus status,
+                                  Instant from, Instant until) {
+        Duration total = null;
+        for (int i = 0; i < changes.size(); i++) {
+            StatusChange<MissionStatus> change = changes.get(i);
+            if (!change.at().isBefore(until)) break;
+            if (change.status() != status) continue;
+
+            Instant end = i + 1 < changes.size() ? changes.get(i + 1).at() : until;
+            if (end.isAfter(until)) end = until;
+            Instant start = change.at().isBefore(from) ? from : change.at();
+            if (end.isBefore(start) || (end.equals(start) && change.at().isBefore(from))) continue;
+
+            total = (total == null ? Duration.ZERO : total).plus(Duration.between(start, end));
+        }
+        return total;
+    }
+
+    private int missionId(String missionName) {
+        return missionIds.computeIfAbsent(missionName, n -> {
+            missionNames.add(n);
+            return missionNames.size() - 1;
+        });
+    }
+
+    private Timeline timelineOrThrow(Map<String, Timeline> timelines, String kind, String name) {
+        Timeline timeline = timelines.get(name);
+        if (timeline == null) throw new IllegalArgumentException(kind + " has no history: " + name);
+        return timeline;
+    }
+
+    private <S extends Enum<S>> List<StatusChange<S>> toChanges(Timeline timeline, S[] values) {
+        List<StatusChange<S>> changes = new ArrayList<>();
+        long[] times = timeline.times();
+        for (int i = 0; i < times.length; i++) {
+            S status = values[timeline.states[i]];
+            if (changes.isEmpty() || changes.get(changes.size() - 1).status() != status) {
+                changes.add(new StatusChange<>(Instant.ofEpochMilli(times[i]), status));
+            }
+        }
+        return changes;
+    }
+
+    private static final class Timeline {
+        private byte[] timeDeltas = new byte[8];
+        private byte[] states = new byte[2];
+        private int[] missionRefs = new int[2];
+        private long[] checkpointTimes = new long[1];
+        private int[] checkpointPositions = new int[1];
+        private int timeBytes;
+        private int size;
+        private long lastMillis;
+
+        void append(long millis, int state, int missionRef) {
+            if (size > 0 && states[size - 1] == state && missionRefs[size - 1] == missionRef) return;
+
+            if (size % CHECKPOINT_INTERVAL == 0) {
+                int checkpoint = size / CHECKPOINT_INTERVAL;
+                if (checkpoint == checkpointTimes.length) {
+                    checkpointTimes = Arrays.copyOf(checkpointTimes, checkpoint * 2);
+                    checkpointPositions = Arrays.copyOf(checkpointPositions, checkpoint * 2);
+                }
+                checkpointTimes[checkpoint] = millis;
+                checkpointPositions[checkpoint] = timeBytes;
+            }
+
+            long delta = size == 0 ? millis : millis - lastMillis;
+            lastMillis = millis;
+
+            if (timeBytes + 10 > timeDeltas.length) timeDeltas = Arrays.copyOf(timeDeltas, timeDeltas.length * 2);
+            while ((delta & ~0x7FL) != 0) {
+                timeDeltas[timeBytes++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            timeDeltas[timeBytes++] = (byte) delta;
+
+            if (size == states.length) {
+                states = Arrays.copyOf(states, size * 2);
+                missionRefs = Arrays.copyOf(missionRefs, size * 2);
+            }
+            states[size] = (byte) state;
+            missionRefs[size] = missionRef;
+            size++;
+        }
+
+        int stateAt(long millis) {
+            int index = indexAt(millis);
+            return index < 0 ? -1 : states[index];
+        }
+
+        /** Index of the last entry recorded at or before {@code millis}, or -1 if none. */
+        int indexAt(long millis) {
+            int checkpoints = (size + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL;
+            int low = 0;
+            int high = checkpoints - 1;
+            int block = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (checkpointTimes[mid] <= millis) {
+                    block = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (block < 0) return -1;
+
+            int index = block * CHECKPOINT_INTERVAL;
+            int end = Math.min(size, index + CHECKPOINT_INTERVAL);
+            long time = checkpointTimes[block];
+            int position = skipVarint(checkpointPositions[block]);
+            while (index + 1 < end) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = timeDeltas[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                if (time + delta > millis) break;
+                time += delta;
+                index++;
+            }
+            return index;
+        }
+
+        long[] times() {
+            long[] times = new long[size];
+            long time = 0;
+            int position = 0;
+            for (int i = 0; i < size; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = timeDeltas[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                time += delta;
+                times[i] = time;
+            }
+            return times;
+        }
+
+        private int skipVarint(int position) {
+            while (timeDeltas[position] < 0) {
+                position++;
+            }
+            return position + 1;
+        }
+    }
+}
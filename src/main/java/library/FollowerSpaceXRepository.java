@@ -0,0 +1,140 @@
+package library;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class FollowerSpaceXRepository implements SpaceXRepository {
+    private final ReplicationSource leader;
+    private final Duration maxStaleness;
+    private final Clock clock;
+
+    private InMemorySpaceXRepository replica = new InMemorySpaceXRepository();
+    private long appliedOffset = 0;
+    private Instant lastSyncedAt;
+
+    public FollowerSpaceXRepository(ReplicationSource leader, Duration maxStaleness) {
+        this(leader, maxStaleness, Clock.systemUTC());
+    }
+
+    public FollowerSpaceXRepository(ReplicationSource leader, Duration maxStaleness, Clock clock) {
+        if (leader == null) throw new IllegalArgumentException("Leader cannot be null");
+        if (maxStaleness == null || maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("Max staleness must be zero or positive");
+        }
+        if (clock == null) throw new IllegalArgumentException("Clock cannot be null");
+        this.leader = leader;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    public synchronized void sync() {
+        Instant startedAt = clock.instant();
+        if (leader.latestOffset() == appliedOffset) {
+            lastSyncedAt = startedAt;
+            return;
+        }
+
+        Optional<List<ReplicationLogEntry>> entries = leader.entriesAfter(appliedOffset);
+
+        if (entries.isEmpty()) {
+            RepositorySnapshot snapshot = leader.snapshot();
+            replica = snapshot.restore();
+            appliedOffset = snapshot.offset();
+            entries = leader.entriesAfter(appliedOffset);
+            if (entries.isEmpty()) {
+                throw new IllegalStateException("Leader compacted its log past snapshot offset " + appliedOffset);
+            }
+        }
+
+        for (ReplicationLogEntry entry : entries.get()) {
+            apply(entry);
+        }
+        lastSyncedAt = startedAt;
+    }
+
+    public synchronized long getAppliedOffset() {
+        return appliedOffset;
+    }
+
+    @Override
+    public void addRocket(Rocket rocket) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addMission(Mission mission) {
+        throw readOnly();
+    }
+
+    @Override
+    public void assignRocketToMission(String rocketName, String missionName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void assignRocketsToMission(String missionName, Set<String> rocketNames) {
+        throw readOnly();
+    }
+
+    @Override
+    public void changeRocketStatus(String rocketName, RocketStatus newStatus) {
+        throw readOnly();
+    }
+
+    @Override
+    public void changeMissionStatus(String missionName, MissionStatus newStatus) {
+        throw readOnly();
+    }
+
+    @Override
+    public synchronized String getSummary() {
+        return freshReplica().getSummary();
+    }
+
+    @Override
+    public synchronized Optional<Rocket> findRocket(String name) {
+        return freshReplica().findRocket(name);
+    }
+
+    @Override
+    public synchronized Optional<Mission> findMission(String name) {
+        return freshReplica().findMission(name);
+    }
+
+    @Override
+    public synchronized List<Rocket> searchRockets(String prefix, int limit) {
+        return freshReplica().searchRockets(prefix, limit);
+    }
+
+    @Override
+    public synchronized List<Mission> searchMissions(String query, int limit) {
+        return freshReplica().searchMissions(query, limit);
+    }
+
+    private InMemorySpaceXRepository freshReplica() {
+        // Null means never synced; comparing durations avoids overflowing Instant for huge bounds.
+        if (lastSyncedAt == null || Duration.between(lastSyncedAt, clock.instant()).compareTo(maxStaleness) >= 0) {
+            sync();
+        }
+        return replica;
+    }
+
+    private void apply(ReplicationLogEntry entry) {
+        if (entry.offset() != appliedOffset + 1) {
+            throw new IllegalStateException(
+                    String.format("Replication gap: expected offset %d but received %d.",
+                            appliedOffset + 1, entry.offset())
+            );
+        }
+        entry.operation().applyTo(replica);
+        appliedOffset = entry.offset();
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Follower is read-only; send writes to the leader.");
+    }
+}
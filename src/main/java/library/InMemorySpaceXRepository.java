@@ -5,6 +5,17 @@ import java.util.*;
 public class InMemorySpaceXRepository implements SpaceXRepository {
     private final Map<String, Rocket> rockets = new HashMap<>();
     private final Map<String, Mission> missions = new HashMap<>();
+    private final NameIndex rocketIndex = new NameIndex();
+    private final NameIndex missionIndex = new NameIndex();
+    private final FleetHistory history;
+
+    public InMemorySpaceXRepository() {
+        this(null);
+    }
+
+    public InMemorySpaceXRepository(FleetHistory history) {
+        this.history = history;
+    }
 
     @Override
     public synchronized void addRocket(Rocket rocket) {
@@ -13,6 +24,8 @@ public class InMemorySpaceXRepository implements SpaceXRepository {
             throw new IllegalArgumentException("Rocket " + rocket.getName() + " already exists.");
         }
         rockets.put(rocket.getName(), rocket);
+        rocketIndex.add(rocket.getName());
+        recordHistory(null, List.of(rocket));
     }
 
     @Override
@@ -22,18 +35,22 @@ public class InMemorySpaceXRepository implements SpaceXRepository {
             throw new IllegalArgumentException("Mission " + mission.getName() + " already exists.");
         }
         missions.put(mission.getName(), mission);
+        missionIndex.add(mission.getName());
+        recordHistory(mission, List.of());
     }
 
     @Override
     public synchronized void assignRocketToMission(String rocketName, String missionName) {
         Rocket rocket = getRocketOrThrow(rocketName);
         Mission mission = getMissionOrThrow(missionName);
+        requireNotEnded(mission);
 
         rocket.assignToMission(missionName);
 
         mission.assignRocket(rocket);
 
         updateMissionStatusAuto(mission);
+        recordHistory(mission, List.of(rocket));
     }
 
     @Override
@@ -43,6 +60,7 @@ public class InMemorySpaceXRepository implements SpaceXRepository {
         }
 
         Mission mission = getMissionOrThrow(missionName);
+        requireNotEnded(mission);
 
         List<Rocket> rocketsToAssign = new ArrayList<>();
 
@@ -63,35 +81,43 @@ public class InMemorySpaceXRepository implements SpaceXRepository {
         }
 
         updateMissionStatusAuto(mission);
+        recordHistory(mission, rocketsToAssign);
     }
 
     @Override
     public synchronized void changeRocketStatus(String rocketName, RocketStatus newStatus) {
+        if (newStatus == null) throw new IllegalArgumentException("Status cannot be null");
         Rocket rocket = getRocketOrThrow(rocketName);
 
         rocket.setStatus(newStatus);
 
+        Mission mission = null;
         if (rocket.getMissionName() != null) {
-            Mission mission = missions.get(rocket.getMissionName());
+            mission = missions.get(rocket.getMissionName());
             updateMissionStatusAuto(mission);
         }
+        recordHistory(mission, List.of(rocket));
     }
 
     @Override
     public synchronized void changeMissionStatus(String missionName, MissionStatus newStatus) {
+        if (newStatus == null) throw new IllegalArgumentException("Status cannot be null");
         Mission mission = getMissionOrThrow(missionName);
 
         if (newStatus == MissionStatus.ENDED) {
-            for (Rocket rocket : mission.getAssignedRockets()) {
+            List<Rocket> released = new ArrayList<>(mission.getAssignedRockets());
+            for (Rocket rocket : released) {
                 rocket.unassign();
             }
             mission.unassignAllRockets();
             mission.setStatus(MissionStatus.ENDED);
+            recordHistory(mission, released);
             return;
         }
 
         validateManualStatusChange(mission, newStatus);
         mission.setStatus(newStatus);
+        recordHistory(mission, List.of());
     }
 
     @Override
@@ -135,6 +161,62 @@ public class InMemorySpaceXRepository implements SpaceXRepository {
         return Optional.ofNullable(missions.get(name));
     }
 
+    @Override
+    public synchronized List<Rocket> searchRockets(String prefix, int limit) {
+        return rocketIndex.findByPrefix(prefix, limit).stream()
+                .map(rockets::get)
+                .toList();
+    }
+
+    @Override
+    public synchronized List<Mission> searchMissions(String query, int limit) {
+        return missionIndex.findBySubstring(query, limit).stream()
+                .map(missions::get)
+                .toList();
+    }
+
+    synchronized List<RepositoryOperation> toOperations() {
+        List<RepositoryOperation> operations = new ArrayList<>();
+        List<Rocket> sortedRockets = rockets.values().stream()
+                .sorted(Comparator.comparing(Rocket::getName))
+                .toList();
+        List<Mission> sortedMissions = missions.values().stream()
+                .sorted(Comparator.comparing(Mission::getName))
+                .toList();
+
+        for (Rocket rocket : sortedRockets) {
+            operations.add(new RepositoryOperation.AddRocket(rocket.getName()));
+        }
+        for (Mission mission : sortedMissions) {
+            operations.add(new RepositoryOperation.AddMission(mission.getName()));
+        }
+
+        for (Mission mission : sortedMissions) {
+            if (mission.getRocketCount() > 0) {
+                Set<String> rocketNames = new HashSet<>();
+                for (Rocket rocket : mission.getAssignedRockets()) {
+                    rocketNames.add(rocket.getName());
+                }
+                operations.add(new RepositoryOperation.AssignRocketsToMission(mission.getName(), rocketNames));
+            }
+        }
+
+        // Assignment leaves rockets IN_SPACE and the rest ON_GROUND; mission statuses follow automatically.
+        for (Rocket rocket : sortedRockets) {
+            RocketStatus implied = rocket.getMissionName() != null ? RocketStatus.IN_SPACE : RocketStatus.ON_GROUND;
+            if (rocket.getStatus() != implied) {
+                operations.add(new RepositoryOperation.ChangeRocketStatus(rocket.getName(), rocket.getStatus()));
+            }
+        }
+
+        for (Mission mission : sortedMissions) {
+            if (mission.getStatus() == MissionStatus.ENDED) {
+                operations.add(new RepositoryOperation.ChangeMissionStatus(mission.getName(), MissionStatus.ENDED));
+            }
+        }
+        return operations;
+    }
+
     private Rocket getRocketOrThrow(String name) {
         if (!rockets.containsKey(name)) throw new IllegalArgumentException("Rocket not found: " + name);
         return rockets.get(name);
@@ -145,6 +227,25 @@ public class InMemorySpaceXRepository implements SpaceXRepository {
         return missions.get(name);
     }
 
+    // Runs after the change is applied, so it must not throw; statuses are validated as non-null up front.
+    private void recordHistory(Mission mission, Collection<Rocket> touchedRockets) {
+        if (history == null) return;
+
+        long at = history.now();
+        for (Rocket rocket : touchedRockets) {
+            history.record(rocket, at);
+        }
+        if (mission != null) {
+            history.record(mission, at);
+        }
+    }
+
+    private void requireNotEnded(Mission mission) {
+        if (mission.getStatus() == MissionStatus.ENDED) {
+            throw new IllegalStateException("Cannot assign rockets to an ENDED mission.");
+        }
+    }
+
     private void updateMissionStatusAuto(Mission mission) {
         if (mission.getStatus() == MissionStatus.ENDED) return;
 
@@ -0,0 +1,121 @@
+package library;
+
+import java.util.*;
+
+public class LeaderSpaceXRepository implements SpaceXRepository, ReplicationSource {
+    private final InMemorySpaceXRepository repository;
+    private final List<ReplicationLogEntry> log = new ArrayList<>();
+    private long firstRetainedOffset = 1;
+    private long latestOffset = 0;
+
+    public LeaderSpaceXRepository() {
+        this(null);
+    }
+
+    public LeaderSpaceXRepository(FleetHistory history) {
+        this.repository = new InMemorySpaceXRepository(history);
+    }
+
+    @Override
+    public synchronized void addRocket(Rocket rocket) {
+        // The log only carries the name, so the leader must hold exactly what new Rocket(name) gives a follower.
+        if (rocket != null && (rocket.getStatus() != RocketStatus.ON_GROUND || rocket.getMissionName() != null)) {
+            throw new IllegalArgumentException("Rocket " + rocket.getName() + " must be added on ground and unassigned.");
+        }
+        repository.addRocket(rocket);
+        append(new RepositoryOperation.AddRocket(rocket.getName()));
+    }
+
+    @Override
+    public synchronized void addMission(Mission mission) {
+        if (mission != null && (mission.getStatus() != MissionStatus.SCHEDULED || mission.getRocketCount() > 0)) {
+            throw new IllegalArgumentException("Mission " + mission.getName() + " must be added scheduled and without rockets.");
+        }
+        repository.addMission(mission);
+        append(new RepositoryOperation.AddMission(mission.getName()));
+    }
+
+    @Override
+    public synchronized void assignRocketToMission(String rocketName, String missionName) {
+        repository.assignRocketToMission(rocketName, missionName);
+        append(new RepositoryOperation.AssignRocketToMission(rocketName, missionName));
+    }
+
+    @Override
+    public synchronized void assignRocketsToMission(String missionName, Set<String> rocketNames) {
+        if (rocketNames == null || rocketNames.isEmpty()) {
+            return;
+        }
+        repository.assignRocketsToMission(missionName, rocketNames);
+        append(new RepositoryOperation.AssignRocketsToMission(missionName, rocketNames));
+    }
+
+    @Override
+    public synchronized void changeRocketStatus(String rocketName, RocketStatus newStatus) {
+        repository.changeRocketStatus(rocketName, newStatus);
+        append(new RepositoryOperation.ChangeRocketStatus(rocketName, newStatus));
+    }
+
+    @Override
+    public synchronized void changeMissionStatus(String missionName, MissionStatus newStatus) {
+        repository.changeMissionStatus(missionName, newStatus);
+        append(new RepositoryOperation.ChangeMissionStatus(missionName, newStatus));
+    }
+
+    @Override
+    public String getSummary() {
+        return repository.getSummary();
+    }
+
+    @Override
+    public Optional<Rocket> findRocket(String name) {
+        return repository.findRocket(name);
+    }
+
+    @Override
+    public Optional<Mission> findMission(String name) {
+        return repository.findMission(name);
+    }
+
+    @Override
+    public List<Rocket> searchRockets(String prefix, int limit) {
+        return repository.searchRockets(prefix, limit);
+    }
+
+    @Override
+    public List<Mission> searchMissions(String query, int limit) {
+        return repository.searchMissions(query, limit);
+    }
+
+    @Override
+    public synchronized long latestOffset() {
+        return latestOffset;
+    }
+
+    @Override
+    public synchronized Optional<List<ReplicationLogEntry>> entriesAfter(long offset) {
+        if (offset < 0 || offset > latestOffset) {
+            throw new IllegalArgumentException("Offset out of range: " + offset);
+        }
+        if (offset + 1 < firstRetainedOffset) {
+            return Optional.empty();
+        }
+        int from = (int) (offset + 1 - firstRetainedOffset);
+        return Optional.of(List.copyOf(log.subList(from, log.size())));
+    }
+
+    @Override
+    public synchronized RepositorySnapshot snapshot() {
+        return new RepositorySnapshot(latestOffset, repository.toOperations());
+    }
+
+    public synchronized void compactLog() {
+        log.clear();
+        firstRetainedOffset = latestOffset + 1;
+    }
+
+    private void append(RepositoryOperation operation) {
+        latestOffset++;
+        log.add(new ReplicationLogEntry(latestOffset, operation));
+    }
+}
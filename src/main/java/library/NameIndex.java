@@ -0,0 +1,146 @@
+package library;
+
+import java.util.*;
+
+/**
+ * Case-insensitive name index used for repository search. Names are kept in a sorted map for
+ * prefix lookups and in an n-gram index (every substring of one to three characters) for substring
+ * lookups; the repository never removes entities, so both structures are append-only.
+ */
+final class NameIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final NavigableMap<String, List<String>> byKey = new TreeMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Posting> byGram = new HashMap<>();
+
+    void add(String name) {
+        String key = normalize(name);
+        int id = names.size();
+        names.add(name);
+        keys.add(key);
+        byKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(name);
+
+        for (int length = 1; length <= GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= key.length(); i++) {
+                byGram.computeIfAbsent(key.substring(i, i + length), g -> new Posting()).add(id);
+            }
+        }
+    }
+
+    List<String> findByPrefix(String prefix, int limit) {
+        validate(prefix, limit);
+        String key = normalize(prefix);
+        List<String> result = new ArrayList<>();
+
+        for (Map.Entry<String, List<String>> entry : byKey.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key)) break;
+            for (String name : entry.getValue()) {
+                if (result.size() == limit) return result;
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    List<String> findBySubstring(String query, int limit) {
+        validate(query, limit);
+        String key = normalize(query);
+        List<String> result = new ArrayList<>();
+        if (limit == 0) return result;
+
+        if (key.isEmpty()) {
+            return new ArrayList<>(names.subList(0, Math.min(limit, names.size())));
+        }
+
+        // Queries no longer than a gram are answered by their own posting list without verification.
+        if (key.length() <= GRAM_LENGTH) {
+            Posting posting = byGram.get(key);
+            if (posting == null) return result;
+            for (int i = 0; i < posting.size && result.size() < limit; i++) {
+                result.add(names.get(posting.ids[i]));
+            }
+            return result;
+        }
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        List<Posting> postings = new ArrayList<>();
+        for (String gram : grams) {
+            Posting posting = byGram.get(gram);
+            if (posting == null) return result;
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(p -> p.size));
+
+        // Leapfrog intersection: every list gallops to the current candidate, and any list that overshoots
+        // proposes the next candidate. The final contains() check rejects names that hold every trigram but
+        // not in the queried order.
+        int[] cursors = new int[postings.size()];
+        int candidate = postings.get(0).ids[0];
+        while (result.size() < limit) {
+            boolean aligned = true;
+            for (int p = 0; p < postings.size(); p++) {
+                Posting posting = postings.get(p);
+                cursors[p] = posting.seek(cursors[p], candidate);
+                if (cursors[p] == posting.size) return result;
+                int id = posting.ids[cursors[p]];
+                if (id != candidate) {
+                    candidate = id;
+                    aligned = false;
+                    break;
+                }
+            }
+            if (aligned) {
+                if (keys.get(candidate).contains(key)) {
+                    result.add(names.get(candidate));
+                }
+                candidate++;
+            }
+        }
+        return result;
+    }
+
+    private void validate(String query, int limit) {
+        if (query == null) throw new IllegalArgumentException("Search query cannot be null");
+        if (limit < 0) throw new IllegalArgumentException("Limit cannot be negative");
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** Ascending ids of the names containing one trigram. */
+    private static final class Posting {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        /** First index at or after {@code from} whose id is at least {@code target}, or {@code size}. */
+        int seek(int from, int target) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && ids[high] < target) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] < target) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+}
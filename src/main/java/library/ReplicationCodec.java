@@ -0,0 +1,172 @@
+package library;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact binary form of log entries and snapshots for shipping them between processes.
+ * Names are written as a byte length followed by UTF-8 and statuses as their ordinal. Decoding treats
+ * the input as untrusted: counts are checked against the remaining bytes before anything is allocated.
+ */
+public final class ReplicationCodec {
+    private static final byte ADD_ROCKET = 1;
+    private static final byte ADD_MISSION = 2;
+    private static final byte ASSIGN_ROCKET = 3;
+    private static final byte ASSIGN_ROCKETS = 4;
+    private static final byte CHANGE_ROCKET_STATUS = 5;
+    private static final byte CHANGE_MISSION_STATUS = 6;
+
+    private static final int MIN_NAME_SIZE = Integer.BYTES;
+    private static final int MIN_OPERATION_SIZE = Byte.BYTES + MIN_NAME_SIZE;
+    private static final int MIN_ENTRY_SIZE = Long.BYTES + MIN_OPERATION_SIZE;
+
+    private ReplicationCodec() {
+    }
+
+    public static byte[] encodeEntries(List<ReplicationLogEntry> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(entries.size());
+            for (ReplicationLogEntry entry : entries) {
+                out.writeLong(entry.offset());
+                writeOperation(out, entry.operation());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<ReplicationLogEntry> decodeEntries(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int count = readCount(in, MIN_ENTRY_SIZE);
+            List<ReplicationLogEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long offset = in.readLong();
+                entries.add(new ReplicationLogEntry(offset, readOperation(in)));
+            }
+            requireFullyRead(in);
+            return entries;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed replication entries", e);
+        }
+    }
+
+    public static byte[] encodeSnapshot(RepositorySnapshot snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(snapshot.offset());
+            out.writeInt(snapshot.operations().size());
+            for (RepositoryOperation operation : snapshot.operations()) {
+                writeOperation(out, operation);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static RepositorySnapshot decodeSnapshot(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            long offset = in.readLong();
+            int count = readCount(in, MIN_OPERATION_SIZE);
+            List<RepositoryOperation> operations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                operations.add(readOperation(in));
+            }
+            requireFullyRead(in);
+            return new RepositorySnapshot(offset, operations);
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed replication snapshot", e);
+        }
+    }
+
+    private static void writeOperation(DataOutputStream out, RepositoryOperation operation) throws IOException {
+        switch (operation) {
+            case RepositoryOperation.AddRocket op -> {
+                out.writeByte(ADD_ROCKET);
+                writeName(out, op.rocketName());
+            }
+            case RepositoryOperation.AddMission op -> {
+                out.writeByte(ADD_MISSION);
+                writeName(out, op.missionName());
+            }
+            case RepositoryOperation.AssignRocketToMission op -> {
+                out.writeByte(ASSIGN_ROCKET);
+                writeName(out, op.rocketName());
+                writeName(out, op.missionName());
+            }
+            case RepositoryOperation.AssignRocketsToMission op -> {
+                out.writeByte(ASSIGN_ROCKETS);
+                writeName(out, op.missionName());
+                out.writeInt(op.rocketNames().size());
+                for (String rocketName : op.rocketNames()) {
+                    writeName(out, rocketName);
+                }
+            }
+            case RepositoryOperation.ChangeRocketStatus op -> {
+                out.writeByte(CHANGE_ROCKET_STATUS);
+                writeName(out, op.rocketName());
+                out.writeByte(op.newStatus().ordinal());
+            }
+            case RepositoryOperation.ChangeMissionStatus op -> {
+                out.writeByte(CHANGE_MISSION_STATUS);
+                writeName(out, op.missionName());
+                out.writeByte(op.newStatus().ordinal());
+            }
+        }
+    }
+
+    private static RepositoryOperation readOperation(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case ADD_ROCKET -> new RepositoryOperation.AddRocket(readName(in));
+            case ADD_MISSION -> new RepositoryOperation.AddMission(readName(in));
+            case ASSIGN_ROCKET -> new RepositoryOperation.AssignRocketToMission(readName(in), readName(in));
+            case ASSIGN_ROCKETS -> {
+                String missionName = readName(in);
+                int count = readCount(in, MIN_NAME_SIZE);
+                Set<String> rocketNames = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    rocketNames.add(readName(in));
+                }
+                yield new RepositoryOperation.AssignRocketsToMission(missionName, rocketNames);
+            }
+            case CHANGE_ROCKET_STATUS ->
+                    new RepositoryOperation.ChangeRocketStatus(readName(in), RocketStatus.values()[in.readByte()]);
+            case CHANGE_MISSION_STATUS ->
+                    new RepositoryOperation.ChangeMissionStatus(readName(in), MissionStatus.values()[in.readByte()]);
+            default -> throw new IllegalArgumentException("Unknown replication operation type: " + type);
+        };
+    }
+
+    private static void writeName(DataOutputStream out, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readName(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in, 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(DataInputStream in, int minimumEncodedSize) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available() / minimumEncodedSize) {
+            throw new StreamCorruptedException("Count " + count + " does not fit in the remaining input");
+        }
+        return count;
+    }
+
+    private static void requireFullyRead(DataInputStream in) throws IOException {
+        if (in.available() > 0) {
+            throw new StreamCorruptedException(in.available() + " trailing bytes after the last record");
+        }
+    }
+}
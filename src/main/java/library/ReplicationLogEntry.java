@@ -0,0 +1,4 @@
+package library;
+
+public record ReplicationLogEntry(long offset, RepositoryOperation operation) {
+}
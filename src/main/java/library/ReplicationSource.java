@@ -0,0 +1,16 @@
+package library;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReplicationSource {
+    long latestOffset();
+
+    /**
+     * Returns the entries written after {@code offset}, or empty if some of them
+     * have already been compacted away and the caller has to install a snapshot first.
+     */
+    Optional<List<ReplicationLogEntry>> entriesAfter(long offset);
+
+    RepositorySnapshot snapshot();
+}
@@ -0,0 +1,54 @@
+package library;
+
+import java.util.Set;
+
+public sealed interface RepositoryOperation {
+
+    void applyTo(SpaceXRepository repository);
+
+    record AddRocket(String rocketName) implements RepositoryOperation {
+        @Override
+        public void applyTo(SpaceXRepository repository) {
+            repository.addRocket(new Rocket(rocketName));
+        }
+    }
+
+    record AddMission(String missionName) implements RepositoryOperation {
+        @Override
+        public void applyTo(SpaceXRepository repository) {
+            repository.addMission(new Mission(missionName));
+        }
+    }
+
+    record AssignRocketToMission(String rocketName, String missionName) implements RepositoryOperation {
+        @Override
+        public void applyTo(SpaceXRepository repository) {
+            repository.assignRocketToMission(rocketName, missionName);
+        }
+    }
+
+    record AssignRocketsToMission(String missionName, Set<String> rocketNames) implements RepositoryOperation {
+        public AssignRocketsToMission {
+            rocketNames = Set.copyOf(rocketNames);
+        }
+
+        @Override
+        public void applyTo(SpaceXRepository repository) {
+            repository.assignRocketsToMission(missionName, rocketNames);
+        }
+    }
+
+    record ChangeRocketStatus(String rocketName, RocketStatus newStatus) implements RepositoryOperation {
+        @Override
+        public void applyTo(SpaceXRepository repository) {
+            repository.changeRocketStatus(rocketName, newStatus);
+        }
+    }
+
+    record ChangeMissionStatus(String missionName, MissionStatus newStatus) implements RepositoryOperation {
+        @Override
+        public void applyTo(SpaceXRepository repository) {
+            repository.changeMissionStatus(missionName, newStatus);
+        }
+    }
+}
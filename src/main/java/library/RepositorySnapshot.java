@@ -0,0 +1,18 @@
+package library;
+
+import java.util.List;
+
+public record RepositorySnapshot(long offset, List<RepositoryOperation> operations) {
+
+    public RepositorySnapshot {
+        operations = List.copyOf(operations);
+    }
+
+    InMemorySpaceXRepository restore() {
+        InMemorySpaceXRepository repository = new InMemorySpaceXRepository();
+        for (RepositoryOperation operation : operations) {
+            operation.applyTo(repository);
+        }
+        return repository;
+    }
+}
@@ -1,5 +1,6 @@
 package library;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,4 +18,7 @@ public interface SpaceXRepository {
 
     Optional<Rocket> findRocket(String name);
     Optional<Mission> findMission(String name);
+
+    List<Rocket> searchRockets(String prefix, int limit);
+    List<Mission> searchMissions(String query, int limit);
 }
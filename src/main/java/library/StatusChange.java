@@ -0,0 +1,6 @@
+package library;
+
+import java.time.Instant;
+
+public record StatusChange<S extends Enum<S>>(Instant at, S status) {
+}
@@ -0,0 +1,201 @@
+package library;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Fleet History Tests")
+class FleetHistoryTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private MutableClock clock;
+    private FleetHistory history;
+    private SpaceXRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        history = new FleetHistory(clock);
+        repository = new InMemorySpaceXRepository(history);
+    }
+
+    @Test
+    @DisplayName("Should reproduce the summary as it looked at an earlier instant")
+    void givenLaterChanges_whenGetSummaryAt_thenEarlierStateReturned() {
+        // Given
+        repository.addMission(new Mission("Mars"));
+        repository.addRocket(new Rocket("R1"));
+        repository.addRocket(new Rocket("R2"));
+        clock.advance(Duration.ofMinutes(1));
+        repository.assignRocketsToMission("Mars", Set.of("R1", "R2"));
+        repository.changeRocketStatus("R2", RocketStatus.IN_REPAIR);
+        String summaryDuringRepair = repository.getSummary();
+        clock.advance(Duration.ofMinutes(1));
+        repository.changeMissionStatus("Mars", MissionStatus.ENDED);
+        repository.addMission(new Mission("Luna"));
+
+        // When
+        String before = history.getSummaryAt(START.minusSeconds(1));
+        String atStart = history.getSummaryAt(START);
+        String duringRepair = history.getSummaryAt(START.plus(Duration.ofSeconds(90)));
+
+        // Then
+        assertEquals("", before, "Nothing existed before the first write");
+        assertEquals("• Mars - Scheduled - Dragons: 0\n", atStart);
+        assertEquals(sortedLines(summaryDuringRepair), sortedLines(duringRepair));
+        assertEquals(sortedLines(repository.getSummary()), sortedLines(history.getSummaryAt(clock.instant())));
+    }
+
+    @Test
+    @DisplayName("Should report a mission's status timeline and time spent PENDING")
+    void givenRepairCycle_whenGetMissionTimeline_thenPendingIntervalRecorded() {
+        // Given
+        repository.addMission(new Mission("Mars"));
+        repository.addRocket(new Rocket("R1"));
+        repository.assignRocketToMission("R1", "Mars");
+        clock.advance(Duration.ofMinutes(5));
+        repository.changeRocketStatus("R1", RocketStatus.IN_REPAIR);
+        clock.advance(Duration.ofMinutes(20));
+        repository.changeRocketStatus("R1", RocketStatus.IN_SPACE);
+
+        // When
+        List<StatusChange<MissionStatus>> timeline = history.getMissionTimeline("Mars");
+
+        // Then
+        assertEquals(List.of(
+                new StatusChange<>(START, MissionStatus.SCHEDULED),
+                new StatusChange<>(START, MissionStatus.IN_PROGRESS),
+                new StatusChange<>(START.plus(Duration.ofMinutes(5)), MissionStatus.PENDING),
+                new StatusChange<>(START.plus(Duration.ofMinutes(25)), MissionStatus.IN_PROGRESS)
+        ), timeline);
+        assertEquals(Duration.ofMinutes(20), history.getTimeInStatus("Mars", MissionStatus.PENDING, clock.instant()));
+        assertEquals(Duration.ofMinutes(10),
+                history.getTimeInStatus("Mars", MissionStatus.PENDING, START.plus(Duration.ofMinutes(15))));
+    }
+
+    @Test
+    @DisplayName("Should list which missions were PENDING within a window and for how long")
+    void givenThreeMissions_whenGetMissionsInStatus_thenOnlyPendingOnesReturned() {
+        // Given
+        for (String name : List.of("Mars", "Luna", "Titan")) {
+            repository.addMission(new Mission(name));
+            repository.addRocket(new Rocket(name + "-R"));
+            repository.assignRocketToMission(name + "-R", name);
+        }
+        clock.advance(Duration.ofMinutes(10));
+        repository.changeRocketStatus("Mars-R", RocketStatus.IN_REPAIR);
+        clock.advance(Duration.ofMinutes(10));
+        repository.changeRocketStatus("Titan-R", RocketStatus.IN_REPAIR);
+        clock.advance(Duration.ofMinutes(10));
+        repository.changeRocketStatus("Mars-R", RocketStatus.IN_SPACE);
+        clock.advance(Duration.ofMinutes(30));
+
+        // When
+        Map<String, Duration> wholeRun = history.getMissionsInStatus(MissionStatus.PENDING, START, clock.instant());
+        Map<String, Duration> window = history.getMissionsInStatus(MissionStatus.PENDING,
+                START.plus(Duration.ofMinutes(25)), START.plus(Duration.ofMinutes(35)));
+        Map<String, Duration> beforeRepairs = history.getMissionsInStatus(MissionStatus.PENDING,
+                START, START.plus(Duration.ofMinutes(10)));
+
+        // Then
+        assertEquals(Map.of("Mars", Duration.ofMinutes(20), "Titan", Duration.ofMinutes(40)), wholeRun);
+        assertEquals(Map.of("Mars", Duration.ofMinutes(5), "Titan", Duration.ofMinutes(10)), window);
+        assertTrue(beforeRepairs.isEmpty(), "No mission was PENDING during the first ten minutes");
+        assertThrows(IllegalArgumentException.class,
+                () -> history.getMissionsInStatus(MissionStatus.PENDING, clock.instant(), START));
+    }
+
+    @Test
+    @DisplayName("Should record rocket statuses including release when a mission ends")
+    void givenMissionEnded_whenGetRocketTimeline_thenRocketBackOnGround() {
+        repository.addMission(new Mission("Mars"));
+        repository.addRocket(new Rocket("R1"));
+        repository.assignRocketToMission("R1", "Mars");
+        clock.advance(Duration.ofHours(1));
+        repository.changeMissionStatus("Mars", MissionStatus.ENDED);
+
+        assertEquals(List.of(
+                new StatusChange<>(START, RocketStatus.ON_GROUND),
+                new StatusChange<>(START, RocketStatus.IN_SPACE),
+                new StatusChange<>(START.plus(Duration.ofHours(1)), RocketStatus.ON_GROUND)
+        ), history.getRocketTimeline("R1"));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when requesting the timeline of an unknown entity")
+    void givenUnknownRocket_whenGetRocketTimeline_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> history.getRocketTimeline("Ghost"));
+    }
+
+    @Test
+    @DisplayName("Should keep history consistent across entities when the clock steps backwards")
+    void givenClockStepsBack_whenGetSummaryAt_thenRocketNeverPrecedesItsMission() {
+        // Given
+        clock.advance(Duration.ofSeconds(100));
+        repository.addMission(new Mission("Mars"));
+        clock.advance(Duration.ofSeconds(-50));
+        repository.addRocket(new Rocket("R1"));
+        repository.assignRocketToMission("R1", "Mars");
+
+        // When
+        String summary = history.getSummaryAt(START.plusSeconds(75));
+
+        // Then
+        assertEquals("", summary, "Nothing had been recorded yet at 75s");
+        assertEquals(START.plusSeconds(100), history.getRocketTimeline("R1").get(0).at());
+    }
+
+    @Test
+    @DisplayName("Should reject a null status without changing or recording anything")
+    void givenNullStatus_whenChangeStatus_thenThrowExceptionAndKeepState() {
+        // Given
+        LeaderSpaceXRepository leader = new LeaderSpaceXRepository(history);
+        leader.addMission(new Mission("Mars"));
+        leader.addRocket(new Rocket("R1"));
+        long offset = leader.latestOffset();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> leader.changeRocketStatus("R1", null));
+        assertThrows(IllegalArgumentException.class, () -> leader.changeMissionStatus("Mars", null));
+        assertEquals(RocketStatus.ON_GROUND, leader.findRocket("R1").orElseThrow().getStatus());
+        assertEquals(MissionStatus.SCHEDULED, leader.findMission("Mars").orElseThrow().getStatus());
+        assertEquals(offset, leader.latestOffset());
+        assertEquals(1, history.getRocketTimeline("R1").size());
+    }
+
+    @Test
+    @DisplayName("Should resolve the state at any instant across many checkpointed transitions")
+    void givenLongTimeline_whenGetSummaryAt_thenStateAtEachInstantReturned() {
+        // Given
+        repository.addMission(new Mission("Mars"));
+        repository.addRocket(new Rocket("R1"));
+        repository.assignRocketToMission("R1", "Mars");
+        for (int i = 1; i <= 500; i++) {
+            clock.advance(Duration.ofSeconds(i));
+            repository.changeRocketStatus("R1", i % 2 == 1 ? RocketStatus.IN_REPAIR : RocketStatus.IN_SPACE);
+        }
+
+        // When & Then
+        Instant at = START;
+        for (int i = 1; i <= 500; i++) {
+            at = at.plusSeconds(i);
+            String expected = i % 2 == 1 ? "o R1 - In repair" : "o R1 - In space";
+            assertTrue(history.getSummaryAt(at).contains(expected), "Transition " + i);
+            assertTrue(history.getSummaryAt(at.minusMillis(1)).contains(i % 2 == 1 ? "o R1 - In space" : "o R1 - In repair"),
+                    "Just before transition " + i);
+        }
+    }
+
+    private static List<String> sortedLines(String summary) {
+        return summary.lines().sorted().toList();
+    }
+}
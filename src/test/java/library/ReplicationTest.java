@@ -0,0 +1,249 @@
+package library;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Leader/Follower Replication Tests")
+class ReplicationTest {
+
+    private LeaderSpaceXRepository leader;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        leader = new LeaderSpaceXRepository();
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should replay the leader's mutations so the follower serves the same summary")
+    void givenLeaderMutations_whenFollowerReads_thenSummaryMatches() {
+        // Given
+        FollowerSpaceXRepository follower = new FollowerSpaceXRepository(leader, Duration.ZERO, clock);
+        leader.addMission(new Mission("Mars"));
+        leader.addRocket(new Rocket("R1"));
+        leader.addRocket(new Rocket("R2"));
+        leader.assignRocketsToMission("Mars", Set.of("R1", "R2"));
+        leader.changeRocketStatus("R2", RocketStatus.IN_REPAIR);
+
+        // When
+        String summary = follower.getSummary();
+
+        // Then
+        assertEquals(sortedLines(leader.getSummary()), sortedLines(summary), "Follower summary should match the leader");
+        assertEquals(MissionStatus.PENDING, follower.findMission("Mars").orElseThrow().getStatus());
+        assertEquals(leader.latestOffset(), follower.getAppliedOffset());
+    }
+
+    @Test
+    @DisplayName("Should not log rejected mutations")
+    void givenRejectedMutation_whenLeaderFails_thenOffsetUnchanged() {
+        leader.addMission(new Mission("Mars"));
+        long offset = leader.latestOffset();
+
+        assertThrows(IllegalArgumentException.class, () -> leader.assignRocketToMission("Ghost", "Mars"));
+        assertEquals(offset, leader.latestOffset(), "Failed operations must not be shipped to followers");
+    }
+
+    @Test
+    @DisplayName("Should serve reads from the replica until the staleness bound expires")
+    void givenStalenessBound_whenLeaderChanges_thenFollowerCatchesUpAfterBound() {
+        // Given
+        FollowerSpaceXRepository follower = new FollowerSpaceXRepository(leader, Duration.ofSeconds(5), clock);
+        leader.addRocket(new Rocket("R1"));
+        follower.sync();
+        leader.addRocket(new Rocket("R2"));
+
+        // When & Then
+        clock.advance(Duration.ofSeconds(3));
+        assertTrue(follower.findRocket("R2").isEmpty(), "Read within the bound may be stale");
+
+        clock.advance(Duration.ofSeconds(3));
+        assertTrue(follower.findRocket("R2").isPresent(), "Read past the bound should catch up first");
+    }
+
+    @Test
+    @DisplayName("Should catch up from a snapshot when the leader has compacted its log")
+    void givenCompactedLog_whenFollowerSyncs_thenInstallsSnapshotAndTail() {
+        // Given
+        leader.addMission(new Mission("Mars"));
+        leader.addMission(new Mission("Luna"));
+        leader.addRocket(new Rocket("R1"));
+        leader.addRocket(new Rocket("R2"));
+        leader.addRocket(new Rocket("R3"));
+        leader.assignRocketToMission("R1", "Mars");
+        leader.assignRocketToMission("R2", "Luna");
+        leader.changeRocketStatus("R2", RocketStatus.IN_REPAIR);
+        leader.changeMissionStatus("Luna", MissionStatus.ENDED);
+        leader.changeRocketStatus("R3", RocketStatus.IN_REPAIR);
+        leader.compactLog();
+        leader.addRocket(new Rocket("R4"));
+
+        FollowerSpaceXRepository follower = new FollowerSpaceXRepository(leader, Duration.ofHours(1), clock);
+
+        // When
+        follower.sync();
+
+        // Then
+        assertEquals(sortedLines(leader.getSummary()), sortedLines(follower.getSummary()));
+        assertEquals(leader.latestOffset(), follower.getAppliedOffset());
+        assertEquals(RocketStatus.ON_GROUND, follower.findRocket("R2").orElseThrow().getStatus());
+        assertEquals(RocketStatus.IN_REPAIR, follower.findRocket("R3").orElseThrow().getStatus());
+        assertTrue(follower.findRocket("R4").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should reject writes on a follower")
+    void givenFollower_whenWrite_thenThrowException() {
+        FollowerSpaceXRepository follower = new FollowerSpaceXRepository(leader, Duration.ZERO, clock);
+
+        assertThrows(UnsupportedOperationException.class, () -> follower.addRocket(new Rocket("R1")));
+    }
+
+    @Test
+    @DisplayName("Should reject rockets and missions that are not in their initial state")
+    void givenEntityWithState_whenAddToLeader_thenThrowException() {
+        // Given
+        SpaceXRepository other = new InMemorySpaceXRepository();
+        other.addRocket(new Rocket("R1"));
+        other.addMission(new Mission("Mars"));
+        other.assignRocketToMission("R1", "Mars");
+        other.changeRocketStatus("R1", RocketStatus.IN_REPAIR);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> leader.addRocket(other.findRocket("R1").orElseThrow()));
+        assertThrows(IllegalArgumentException.class, () -> leader.addMission(other.findMission("Mars").orElseThrow()));
+        assertEquals(0, leader.latestOffset(), "Rejected entities must not be logged");
+    }
+
+    @Test
+    @DisplayName("Should sync on every read when staleness is zero, even if the clock does not advance")
+    void givenZeroStalenessAndFrozenClock_whenLeaderChanges_thenFollowerSeesChange() {
+        // Given
+        FollowerSpaceXRepository follower = new FollowerSpaceXRepository(leader, Duration.ZERO, clock);
+        follower.sync();
+
+        // When
+        leader.addRocket(new Rocket("R1"));
+
+        // Then
+        assertTrue(follower.findRocket("R1").isPresent(), "Zero staleness must never serve stale data");
+    }
+
+    @Test
+    @DisplayName("Should sync once and then serve local reads when the staleness bound is effectively unlimited")
+    void givenUnboundedStaleness_whenRead_thenSyncsOnceWithoutOverflow() {
+        // Given
+        FollowerSpaceXRepository follower =
+                new FollowerSpaceXRepository(leader, ChronoUnit.FOREVER.getDuration(), clock);
+        leader.addRocket(new Rocket("R1"));
+
+        // When
+        boolean firstRead = follower.findRocket("R1").isPresent();
+        leader.addRocket(new Rocket("R2"));
+        clock.advance(Duration.ofDays(365_000));
+
+        // Then
+        assertTrue(firstRead, "The first read should sync because the follower never synced");
+        assertTrue(follower.findRocket("R2").isEmpty(), "Later reads stay within the bound and are served locally");
+        assertEquals(1, follower.getAppliedOffset());
+    }
+
+    @Test
+    @DisplayName("Should replicate through the binary encoding of entries and snapshots")
+    void givenSerializingChannel_whenFollowerSyncs_thenStateMatches() {
+        // Given
+        ReplicationSource channel = new ReplicationSource() {
+            @Override
+            public long latestOffset() {
+                return leader.latestOffset();
+            }
+
+            @Override
+            public Optional<List<ReplicationLogEntry>> entriesAfter(long offset) {
+                return leader.entriesAfter(offset)
+                        .map(entries -> ReplicationCodec.decodeEntries(ReplicationCodec.encodeEntries(entries)));
+            }
+
+            @Override
+            public RepositorySnapshot snapshot() {
+                return ReplicationCodec.decodeSnapshot(ReplicationCodec.encodeSnapshot(leader.snapshot()));
+            }
+        };
+        leader.addMission(new Mission("Artemis I"));
+        leader.addRocket(new Rocket("Dragon-1"));
+        leader.addRocket(new Rocket("Dragon-2"));
+        leader.assignRocketsToMission("Artemis I", Set.of("Dragon-1", "Dragon-2"));
+        leader.compactLog();
+        leader.addMission(new Mission("Mars"));
+        leader.addRocket(new Rocket("Dragon-3"));
+        leader.assignRocketToMission("Dragon-3", "Mars");
+        leader.changeRocketStatus("Dragon-3", RocketStatus.IN_REPAIR);
+        leader.changeMissionStatus("Artemis I", MissionStatus.ENDED);
+
+        FollowerSpaceXRepository follower = new FollowerSpaceXRepository(channel, Duration.ZERO, clock);
+
+        // When
+        follower.sync();
+
+        // Then
+        assertEquals(sortedLines(leader.getSummary()), sortedLines(follower.getSummary()));
+        assertEquals(leader.latestOffset(), follower.getAppliedOffset());
+    }
+
+    @Test
+    @DisplayName("Should round-trip every operation type through the codec")
+    void givenAllOperationTypes_whenEncodeAndDecode_thenEqual() {
+        List<ReplicationLogEntry> entries = List.of(
+                new ReplicationLogEntry(1, new RepositoryOperation.AddRocket("R1")),
+                new ReplicationLogEntry(2, new RepositoryOperation.AddMission("Mars")),
+                new ReplicationLogEntry(3, new RepositoryOperation.AssignRocketToMission("R1", "Mars")),
+                new ReplicationLogEntry(4, new RepositoryOperation.AssignRocketsToMission("Mars", Set.of("R2", "R3"))),
+                new ReplicationLogEntry(5, new RepositoryOperation.ChangeRocketStatus("R1", RocketStatus.IN_REPAIR)),
+                new ReplicationLogEntry(6, new RepositoryOperation.ChangeMissionStatus("Mars", MissionStatus.ENDED))
+        );
+
+        assertEquals(entries, ReplicationCodec.decodeEntries(ReplicationCodec.encodeEntries(entries)));
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decodeEntries(new byte[]{0, 0, 0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decodeEntries(new byte[]{0x7f, -1, -1, -1}),
+                "Oversized count must be rejected before allocating");
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decodeEntries(new byte[]{-1, -1, -1, -1}),
+                "Negative count must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decodeSnapshot(
+                new byte[]{0, 0, 0, 0, 0, 0, 0, 1, 0x7f, -1, -1, -1}));
+
+        byte[] encoded = ReplicationCodec.encodeEntries(entries);
+        byte[] withTrailingByte = Arrays.copyOf(encoded, encoded.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decodeEntries(withTrailingByte),
+                "Trailing bytes must be rejected");
+    }
+
+    @Test
+    @DisplayName("Should round-trip names longer than 64 KB through the codec")
+    void givenVeryLongName_whenEncodeAndDecode_thenEqual() {
+        String name = "Dragon-" + "x".repeat(70_000) + "-\u00e9";
+        leader.addRocket(new Rocket(name));
+
+        List<ReplicationLogEntry> entries = leader.entriesAfter(0).orElseThrow();
+        RepositorySnapshot snapshot = leader.snapshot();
+
+        assertEquals(entries, ReplicationCodec.decodeEntries(ReplicationCodec.encodeEntries(entries)));
+        assertEquals(snapshot, ReplicationCodec.decodeSnapshot(ReplicationCodec.encodeSnapshot(snapshot)));
+    }
+
+    // Rockets within a mission are listed in hash order, which differs between replicas.
+    private static List<String> sortedLines(String summary) {
+        return summary.lines().sorted().toList();
+    }
+}
@@ -3,8 +3,10 @@ package library;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -357,4 +359,78 @@ class SpaceXRepositoryTest {
         assertTrue(idxBeta < idxCharlie, "Beta (3) should be before Charlie (2)");
         assertTrue(idxCharlie < idxAlpha, "Charlie (2) should be before Alpha (2) due to alphabetical desc sort");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should find rockets by case-insensitive name prefix in name order")
+    void givenRockets_whenSearchByPrefix_thenMatchingRocketsReturned() {
+        // Given
+        repository.addRocket(new Rocket("Dragon-2"));
+        repository.addRocket(new Rocket("Falcon 9"));
+        repository.addRocket(new Rocket("Dragon-1"));
+        repository.addRocket(new Rocket("dragonfly"));
+
+        // When
+        List<String> names = repository.searchRockets("dragon-", 10).stream().map(Rocket::getName).toList();
+
+        // Then
+        assertEquals(List.of("Dragon-1", "Dragon-2"), names);
+        assertEquals(1, repository.searchRockets("DRAGON", 1).size(), "Limit should cap the result size");
+        assertTrue(repository.searchRockets("Starship", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find missions by case-insensitive name fragment")
+    void givenMissions_whenSearchBySubstring_thenMatchingMissionsReturned() {
+        // Given
+        repository.addMission(new Mission("Artemis I"));
+        repository.addMission(new Mission("Mars"));
+        repository.addMission(new Mission("Luna Artemis Support"));
+
+        // When
+        Set<String> names = repository.searchMissions("artemis", 10).stream()
+                .map(Mission::getName)
+                .collect(Collectors.toSet());
+
+        // Then
+        assertEquals(Set.of("Artemis I", "Luna Artemis Support"), names);
+        assertEquals(List.of("Mars"), repository.searchMissions("rs", 10).stream().map(Mission::getName).toList());
+        assertTrue(repository.searchMissions("Apollo", 10).isEmpty());
+        assertTrue(repository.searchMissions("z", 10).isEmpty(), "Single-character miss");
+        repository.addMission(new Mission("Abcd Bcde"));
+        assertTrue(repository.searchMissions("abcde", 10).isEmpty(), "Trigrams present but not contiguous");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when searching rockets with a negative limit")
+    void givenNegativeLimit_whenSearchRockets_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.searchRockets("D", -1));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when searching missions with a negative limit")
+    void givenNegativeLimit_whenSearchMissions_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.searchMissions("Mars", -1));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when searching rockets with a null prefix")
+    void givenNullPrefix_whenSearchRockets_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.searchRockets(null, 10));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when searching missions with a null query")
+    void givenNullQuery_whenSearchMissions_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.searchMissions(null, 10));
+    }
+
+    @Test
+    @DisplayName("Should return an empty list when searching with a limit of zero")
+    void givenZeroLimit_whenSearch_thenEmptyList() {
+        repository.addRocket(new Rocket("Dragon-1"));
+        repository.addMission(new Mission("Artemis I"));
+
+        assertTrue(repository.searchRockets("Dragon", 0).isEmpty());
+        assertTrue(repository.searchMissions("Artemis", 0).isEmpty());
+    }
+}